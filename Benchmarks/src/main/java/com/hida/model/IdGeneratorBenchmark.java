@@ -0,0 +1,66 @@
+package com.hida.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the translation between ordinals and names that every generator
+ * performs for each Pid it creates or rolls.
+ *
+ * @author lruffin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class IdGeneratorBenchmark {
+
+    /**
+     * The generator to measure; auto uses eight mixed letters and custom uses
+     * four mixed letters followed by four digits
+     */
+    @Param({"auto", "custom"})
+    private String generatorType_;
+
+    private IdGenerator generator_;
+    private long ordinal_;
+    private Pid pid_;
+
+    @Setup
+    public void setUp() {
+        generator_ = "auto".equals(generatorType_)
+                ? new AutoIdGenerator("xyz", Token.MIXED_ALPHABET, 8)
+                : new CustomIdGenerator("xyz", false, "mmmmdddd");
+        pid_ = new Pid(generator_.longToName(generator_.getMaxPermutation() / 2));
+    }
+
+    @Benchmark
+    public String longToName() {
+        // stride through the domain so that every position of the name changes
+        ordinal_ = (ordinal_ + 7919) % generator_.getMaxPermutation();
+        return generator_.longToName(ordinal_);
+    }
+
+    @Benchmark
+    public long pidToLong() {
+        return generator_.PidToLong(pid_);
+    }
+
+    @Benchmark
+    public Pid incrementPid() {
+        generator_.incrementPid(pid_);
+        return pid_;
+    }
+}
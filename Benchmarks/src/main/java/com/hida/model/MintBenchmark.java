@@ -0,0 +1,71 @@
+package com.hida.model;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long the generators take to create sets of Pids of various
+ * sizes, without touching the database.
+ *
+ * @author lruffin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class MintBenchmark {
+
+    @Param({"auto", "custom"})
+    private String generatorType_;
+
+    @Param({"100", "10000", "100000"})
+    private long amount_;
+
+    private IdGenerator generator_;
+    private long key_;
+    private long index_;
+    private char[] buffer_;
+
+    @Setup
+    public void setUp() {
+        generator_ = "auto".equals(generatorType_)
+                ? new AutoIdGenerator("xyz", Token.MIXED_ALPHABET, 8)
+                : new CustomIdGenerator("xyz", false, "mmmmdddd");
+        key_ = OrdinalPermutation.generateKey();
+        buffer_ = new char[(int) amount_ * (generator_.getCodec().getLength() + 1)];
+    }
+
+    @Benchmark
+    public Set<Pid> randomMint() {
+        Set<Pid> set = generator_.randomMint(amount_, key_, index_);
+        index_ = (index_ + amount_) % generator_.getMaxPermutation();
+        return set;
+    }
+
+    @Benchmark
+    public Set<Pid> sequentialMint() {
+        Set<Pid> set = generator_.sequentialMint(amount_, index_);
+        index_ = (index_ + amount_) % generator_.getMaxPermutation();
+        return set;
+    }
+
+    @Benchmark
+    public char[] encodeRange() {
+        generator_.encodeRange(index_, (int) amount_, buffer_, 0, '\n');
+        index_ = (index_ + amount_) % generator_.getMaxPermutation();
+        return buffer_;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hida.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the comparison and hashing of Pids, which dominate sorting and the
+ * sets that hold minted Pids.
+ *
+ * @author lruffin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class PidBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final Pid[] pids_ = new Pid[SIZE];
+    private int position_;
+
+    @Setup
+    public void setUp() {
+        IdGenerator generator = new AutoIdGenerator("xyz", Token.MIXED_ALPHABET_EXTENDED, 6);
+        Object[] names = generator.randomMint(SIZE, OrdinalPermutation.generateKey(), 0).toArray();
+        for (int i = 0; i < SIZE; i++) {
+            pids_[i] = new Pid(names[i].toString());
+        }
+    }
+
+    @Benchmark
+    public int compareTo() {
+        position_ = (position_ + 1) & (SIZE - 1);
+        return pids_[position_].compareTo(pids_[(position_ + 1) & (SIZE - 1)]);
+    }
+
+    @Benchmark
+    public int hashCodeOfPid() {
+        position_ = (position_ + 1) & (SIZE - 1);
+        return new Pid(pids_[position_]).hashCode();
+    }
+}
@@ -0,0 +1,92 @@
+package com.hida.service;
+
+import com.hida.model.DefaultSetting;
+import com.hida.model.Pid;
+import com.hida.model.Token;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.orm.jpa.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Measures MinterService.mint end to end, including the uniqueness checks and
+ * the inserts, against an in-memory HSQLDB. The pool is never generated so
+ * that every request reaches the database.
+ *
+ * @author lruffin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+public class MinterServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private long amount_;
+
+    @Param({"true", "false"})
+    private boolean isRandom_;
+
+    private ConfigurableApplicationContext context_;
+    private MinterService minterService_;
+    private DefaultSetting setting_;
+
+    /**
+     * Only the services, repositories and entities of the Minter are loaded;
+     * the web layer is left out.
+     */
+    @Configuration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackageClasses = MinterService.class)
+    @EntityScan(basePackages = {"com.hida.model"})
+    @EnableJpaRepositories(basePackages = {"com.hida.repositories"})
+    @EnableTransactionManagement
+    public static class BenchmarkConfiguration {
+    }
+
+    @Setup
+    public void setUp() {
+        context_ = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(false)
+                .run("--spring.datasource.url=jdbc:hsqldb:mem:benchmark",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.config=classpath:logback-benchmark.xml",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop");
+        minterService_ = context_.getBean(MinterService.class);
+
+        // a trillion permutations are never exhausted by a benchmark run
+        setting_ = new DefaultSetting("", "b", 0, Token.DIGIT, "dddddddddddd", 12,
+                true, true, isRandom_);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context_.close();
+    }
+
+    @Benchmark
+    public Set<Pid> mint() throws IOException {
+        return minterService_.mint(amount_, setting_);
+    }
+}